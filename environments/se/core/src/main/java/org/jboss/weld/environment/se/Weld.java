@@ -548,8 +548,8 @@ public class Weld implements ContainerInstanceFactory {
      */
     public WeldContainer initialize() {
 
-        // If also building a synthetic bean archive or the implicit scan is enabled, the check for beans.xml is not necessary
-        if (!isSyntheticBeanArchiveRequired() && !isImplicitScanEnabled() && resourceLoader.getResource(WeldDeployment.BEANS_XML) == null) {
+        // If the discovery is disabled, also building a synthetic bean archive or the implicit scan is enabled, the check for beans.xml is not necessary
+        if (discoveryEnabled && !isSyntheticBeanArchiveRequired() && !isImplicitScanEnabled() && resourceLoader.getResource(WeldDeployment.BEANS_XML) == null) {
             throw CommonLogger.LOG.missingBeansXml();
         }
 
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import org.jboss.weld.environment.deployment.WeldDeployment;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+/**
+ * Tests that no <code>META-INF/beans.xml</code> is required if the discovery is disabled.
+ */
+public class DiscoveryDisabledTest {
+
+    @Test
+    public void testBeansXmlNotRequiredIfDiscoveryDisabled() {
+        Weld weld = new Weld().disableDiscovery().setClassLoader(new NoBeansXmlClassLoader());
+        assertNull(new NoBeansXmlClassLoader().getResource(WeldDeployment.BEANS_XML));
+        Integer val = 42;
+        weld.addBean().addType(Integer.class).produceWith(() -> val).addQualifier(Juicy.Literal.INSTANCE);
+        try (WeldContainer container = weld.initialize()) {
+            assertEquals(Integer.valueOf(42), container.select(Integer.class, Juicy.Literal.INSTANCE).get());
+        }
+    }
+
+    @Test
+    public void testExtensionsOnlyIfDiscoveryDisabled() {
+        Weld weld = new Weld().disableDiscovery().setClassLoader(new NoBeansXmlClassLoader()).extensions(new TestExtension());
+        try {
+            weld.initialize();
+            fail();
+        } catch (IllegalStateException expected) {
+            // No bean archive is created for extensions, i.e. the missing beans.xml is not reported
+            assertTrue(expected.getMessage(), expected.getMessage().contains("WELD-ENV-002009"));
+        }
+    }
+
+    private static class NoBeansXmlClassLoader extends ClassLoader {
+
+        NoBeansXmlClassLoader() {
+            super(DiscoveryDisabledTest.class.getClassLoader());
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return WeldDeployment.BEANS_XML.equals(name) ? null : super.getResource(name);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return WeldDeployment.BEANS_XML.equals(name) ? Collections.<URL> emptyEnumeration() : super.getResources(name);
+        }
+
+    }
+
+}
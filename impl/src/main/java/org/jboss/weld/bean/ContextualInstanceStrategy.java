@@ -31,6 +31,8 @@ import javax.enterprise.inject.spi.BeanAttributes;
 import javax.inject.Singleton;
 
 import org.jboss.weld.context.cache.RequestScopedCache;
+import org.jboss.weld.context.cache.RequestScopedCacheSlots;
+import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.reflection.Reflections;
@@ -48,8 +50,8 @@ import org.jboss.weld.util.reflection.Reflections;
  * the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is flushed in such case.
  *
  * For {@link SessionScoped}, {@link ConversationScoped} and {@link RequestScoped} beans a special strategy is used which caches contextual bean instances in
- * a {@link ThreadLocal}. This implementation respects the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is
- * flushed in such case. This is done indirectly by {@link RequestScopedCache}.
+ * a slot of the per-thread {@link RequestScopedCache}. This implementation respects the possibility of an instance being destroyed via {@link AlterableContext}
+ * and the cached instance is flushed in such case. This is done indirectly by {@link RequestScopedCache}.
  *
  * @author Jozef Hartinger
  *
@@ -66,7 +68,11 @@ public abstract class ContextualInstanceStrategy<T> {
         if (ApplicationScoped.class == bean.getScope() || Singleton.class == bean.getScope()) {
             return new ApplicationScopedContextualInstanceStrategy<T>();
         } else if (CachingContextualInstanceStrategy.CACHEABLE_SCOPES.contains(bean.getScope())) {
-            return new CachingContextualInstanceStrategy<T>();
+            RequestScopedCacheSlots slots = manager.getServices().get(RequestScopedCacheSlots.class);
+            if (slots != null) {
+                return new CachingContextualInstanceStrategy<T>(slots.allocate());
+            }
+            BeanLogger.LOG.requestScopedCacheSlotsNotAvailable(bean);
         }
         return defaultStrategy();
     }
@@ -74,6 +80,15 @@ public abstract class ContextualInstanceStrategy<T> {
     ContextualInstanceStrategy() {
     }
 
+    /**
+     * Releases the resources held by this strategy. Invoked when the strategy is replaced.
+     *
+     * @param manager
+     */
+    void release(BeanManagerImpl manager) {
+        // noop by default
+    }
+
     abstract T get(Bean<T> bean, BeanManagerImpl manager, CreationalContext<?> ctx);
 
     abstract T getIfExists(Bean<T> bean, BeanManagerImpl manager);
@@ -153,31 +168,38 @@ public abstract class ContextualInstanceStrategy<T> {
 
         private static final Set<Class<? extends Annotation>> CACHEABLE_SCOPES = ImmutableSet.of(RequestScoped.class, ConversationScoped.class,
                 SessionScoped.class);
-        private final ThreadLocal<T> cache = new ThreadLocal<T>();
+        private final int slot;
+
+        CachingContextualInstanceStrategy(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        void release(BeanManagerImpl manager) {
+            manager.getServices().get(RequestScopedCacheSlots.class).release(slot);
+        }
 
         @Override
         T getIfExists(Bean<T> bean, BeanManagerImpl manager) {
-            T cached = cache.get();
+            T cached = Reflections.cast(RequestScopedCache.getSlotValue(slot, this));
             if (cached != null) {
                 return cached;
             }
             cached = super.getIfExists(bean, manager);
-            if (cached != null && RequestScopedCache.addItemIfActive(cache)) {
-                cache.set(cached);
+            if (cached != null) {
+                RequestScopedCache.setSlotValueIfActive(slot, this, cached);
             }
             return cached;
         }
 
         @Override
         T get(Bean<T> bean, BeanManagerImpl manager, CreationalContext<?> ctx) {
-            T cached = cache.get();
+            T cached = Reflections.cast(RequestScopedCache.getSlotValue(slot, this));
             if (cached != null) {
                 return cached;
             }
             cached = super.get(bean, manager, ctx);
-            if (RequestScopedCache.addItemIfActive(cache)) {
-                cache.set(cached);
-            }
+            RequestScopedCache.setSlotValueIfActive(slot, this, cached);
             return cached;
         }
     }
@@ -24,6 +24,8 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import javax.inject.Inject;
+
 import org.jboss.weld.annotated.runtime.InvokableAnnotatedMethod;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.resolution.CovariantTypes;
@@ -54,11 +56,12 @@ class DecoratedMethods {
     }
 
     public InvokableAnnotatedMethod<?> getDecoratedMethod(Method method) {
-        if (!cache.containsKey(method)) {
+        Object value = cache.get(method);
+        if (value == null) {
             // this is not atomic and we may end up doing method lookup more than once - which is fine
-            cache.putIfAbsent(method, findMatchingDecoratedMethod(method));
+            value = findMatchingDecoratedMethod(method);
+            cache.putIfAbsent(method, value);
         }
-        Object value = cache.get(method);
         if (value == NULL_MARKER) {
             return null;
         } else {
@@ -67,6 +70,10 @@ class DecoratedMethods {
     }
 
     private Object findMatchingDecoratedMethod(Method method) {
+        if (method.isAnnotationPresent(Inject.class)) {
+            // Initializer methods are never decorated
+            return NULL_MARKER;
+        }
         // First try to find the same method
         for (InvokableAnnotatedMethod<?> decoratedMethod : decoratedTypeMethods) {
             if (decoratedMethod.getJavaMember().equals(method)) {
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.bean;
 
+import java.lang.annotation.Annotation;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
@@ -118,8 +119,13 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
 
     @Override
     public void setAttributes(BeanAttributes<T> attributes) {
+        Class<? extends Annotation> previousScope = getScope();
         super.setAttributes(attributes);
-        this.contextualInstanceStrategy = ContextualInstanceStrategy.create(attributes, beanManager);
+        if (!previousScope.equals(attributes.getScope())) {
+            // the strategy only depends on the scope
+            this.contextualInstanceStrategy.release(beanManager);
+            this.contextualInstanceStrategy = ContextualInstanceStrategy.create(attributes, beanManager);
+        }
     }
 
     @Override
@@ -38,7 +38,8 @@ public interface WeldDecorator<T> extends Decorator<T> {
     /**
      * Returns the decorated method that can decorate a particular method, if one exists
      * <p/>
-     * Such a method must be implement one of the decorated type methods, and can be parametrized
+     * Such a method must be implement one of the decorated type methods, and can be parametrized. Initializer methods are never
+     * decorated.
      *
      * @param method
      * @return
@@ -16,16 +16,21 @@
  */
 package org.jboss.weld.bean.builtin;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Decorator;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.util.TypeLiteral;
 import javax.inject.Provider;
 
+import org.jboss.weld.inject.WeldInstance;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
 import org.jboss.weld.util.collections.Arrays2;
 import org.jboss.weld.util.reflection.Reflections;
 
@@ -33,10 +38,13 @@ public class InstanceBean extends AbstractFacadeBean<Instance<?>> {
     private static final Type INSTANCE_TYPE = new TypeLiteral<Instance<Object>>() {
         private static final long serialVersionUID = -1246199714407637856L;
     }.getType();
+    private static final Type WELD_INSTANCE_TYPE = new TypeLiteral<WeldInstance<Object>>() {
+        private static final long serialVersionUID = -1641539232287005226L;
+    }.getType();
     private static final Type PROVIDER_TYPE = new TypeLiteral<Provider<Object>>() {
         private static final long serialVersionUID = -5256050387550468441L;
     }.getType();
-    private static final Set<Type> DEFAULT_TYPES = Arrays2.<Type>asSet(INSTANCE_TYPE, PROVIDER_TYPE, Object.class);
+    private static final Set<Type> DEFAULT_TYPES = Arrays2.<Type>asSet(INSTANCE_TYPE, WELD_INSTANCE_TYPE, PROVIDER_TYPE, Object.class);
 
     public InstanceBean(BeanManagerImpl manager) {
         super(manager, Reflections.<Class<Instance<?>>>cast(Instance.class));
@@ -56,6 +64,17 @@ public class InstanceBean extends AbstractFacadeBean<Instance<?>> {
         return InstanceImpl.of(injectionPoint, creationalContext, getBeanManager());
     }
 
+    @Override
+    protected List<Decorator<?>> getDecorators(InjectionPoint ip) {
+        Type type = ip.getType();
+        if (type instanceof ParameterizedType && WeldInstance.class.equals(((ParameterizedType) type).getRawType())) {
+            // decorators of Instance apply to an injected WeldInstance as well
+            Type instanceType = new ParameterizedTypeImpl(Instance.class, ((ParameterizedType) type).getActualTypeArguments(), null);
+            return beanManager.resolveDecorators(Arrays2.<Type> asSet(type, instanceType), getQualifiers());
+        }
+        return super.getDecorators(ip);
+    }
+
     @Override
     public String toString() {
         return "Implicit Bean [javax.enterprise.inject.Instance] with qualifiers [@Default]";
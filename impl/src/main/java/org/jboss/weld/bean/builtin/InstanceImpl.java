@@ -23,13 +23,16 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.AlterableContext;
 import javax.enterprise.context.spi.Context;
 import javax.enterprise.context.spi.CreationalContext;
-import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.util.TypeLiteral;
@@ -38,6 +41,7 @@ import org.jboss.weld.bean.proxy.ProxyMethodHandler;
 import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.context.WeldCreationalContext;
 import org.jboss.weld.exceptions.InvalidObjectException;
+import org.jboss.weld.inject.WeldInstance;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
 import org.jboss.weld.logging.BeanLogger;
@@ -47,6 +51,8 @@ import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.resolution.TypeSafeBeanResolver;
 import org.jboss.weld.util.Preconditions;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.WeldCollections;
 import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.Reflections;
@@ -58,51 +64,60 @@ import org.jboss.weld.util.reflection.Reflections;
  * @author Gavin King
  */
 @edu.umd.cs.findbugs.annotations.SuppressWarnings(value = { "SE_NO_SUITABLE_CONSTRUCTOR", "SE_BAD_FIELD" }, justification = "Uses SerializationProxy")
-public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements Instance<T>, Serializable {
+public class InstanceImpl<T> extends AbstractFacade<T, WeldInstance<T>> implements WeldInstance<T>, Serializable {
 
     private static final long serialVersionUID = -376721889693284887L;
 
-    private final transient Set<Bean<?>> allBeans;
-    private final transient Bean<?> bean;
+    // the maximum number of child facades memoized by select()
+    private static final long SELECT_CACHE_SIZE = 32;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<InstanceImpl, ComputingCache> SELECT_CACHE_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(InstanceImpl.class, ComputingCache.class, "selectCache");
 
     private final transient CurrentInjectionPoint currentInjectionPoint;
-    private final transient InjectionPoint ip;
 
-    public static <I> Instance<I> of(InjectionPoint injectionPoint, CreationalContext<I> creationalContext,
+    // resolved lazily, many facades are only used to create another one via select()
+    private transient volatile Resolution resolution;
+
+    private transient volatile ComputingCache<SelectKey, WeldInstance<?>> selectCache;
+
+    public static <I> WeldInstance<I> of(InjectionPoint injectionPoint, CreationalContext<I> creationalContext,
             BeanManagerImpl beanManager) {
         return new InstanceImpl<I>(injectionPoint, creationalContext, beanManager);
     }
 
     private InstanceImpl(InjectionPoint injectionPoint, CreationalContext<? super T> creationalContext, BeanManagerImpl beanManager) {
         super(injectionPoint, creationalContext, beanManager);
+        this.currentInjectionPoint = beanManager.getServices().get(CurrentInjectionPoint.class);
+    }
 
-        // Perform typesafe resolution, and possibly attempt to resolve the ambiguity
-        Resolvable resolvable = new ResolvableBuilder(getType(), getBeanManager()).addQualifiers(getQualifiers())
-                .setDeclaringBean(getInjectionPoint().getBean()).create();
-        TypeSafeBeanResolver beanResolver = getBeanManager().getBeanResolver();
-        this.allBeans = beanResolver.resolve(beanResolver.resolve(resolvable, Reflections.isCacheable(getQualifiers())));
-        // optimization for the most common path - non-null bean means we are not unsatisfied not ambiguous
-        if (allBeans.size() == 1) {
-            this.bean = allBeans.iterator().next();
-        } else {
-            this.bean = null;
+    private Resolution getResolution() {
+        Resolution resolution = this.resolution;
+        if (resolution == null) {
+            // the resolution is idempotent - if two threads race, one of the results is simply discarded
+            this.resolution = resolution = new Resolution(this);
         }
-        this.currentInjectionPoint = beanManager.getServices().get(CurrentInjectionPoint.class);
-        // Generate a correct injection point for the bean, we do this by taking the original injection point and adjusting the
-        // qualifiers and type
-        this.ip = new DynamicLookupInjectionPoint(getInjectionPoint(), getType(), getQualifiers());
+        return resolution;
     }
 
     public T get() {
-        if (bean != null) {
-            return getBeanInstance(bean);
+        Resolution resolution = getResolution();
+        if (resolution.bean != null) {
+            return getBeanInstance(resolution.bean);
         } else if (isUnsatisfied()) {
             throw BeanManagerLogger.LOG.unresolvableElement("Type: " + getType() + "; Qualifiers: " + getQualifiers());
         } else {
-            throw BeanManagerLogger.LOG.ambiguousBeansForDependency(WeldCollections.toMultiRowString(allBeans));
+            throw BeanManagerLogger.LOG.ambiguousBeansForDependency(WeldCollections.toMultiRowString(resolution.allBeans));
         }
     }
 
+    @Override
+    public Handle<T> getHandle() {
+        T value = get();
+        return new InstanceHandle<T>(this, getResolution().bean, value);
+    }
+
     /**
      * Gets a string representation
      *
@@ -114,35 +129,67 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
     }
 
     public Iterator<T> iterator() {
-        return new InstanceImplIterator(allBeans);
+        return new InstanceImplIterator(getResolution().allBeans);
     }
 
     public boolean isAmbiguous() {
-        return allBeans.size() > 1;
+        return getResolution().allBeans.size() > 1;
     }
 
     public boolean isUnsatisfied() {
-        return allBeans.isEmpty();
+        return getResolution().allBeans.isEmpty();
     }
 
-    public Instance<T> select(Annotation... qualifiers) {
+    @Override
+    public WeldInstance<T> select(Annotation... qualifiers) {
         return selectInstance(this.getType(), qualifiers);
     }
 
-    public <U extends T> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+    @Override
+    public <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype, qualifiers);
     }
 
-    public <U extends T> Instance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+    @Override
+    public <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype.getType(), qualifiers);
     }
 
-    private <U extends T> Instance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+    private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+        if (!Reflections.isCacheable(newQualifiers)) {
+            // e.g. anonymous annotation literals - do not hold a reference
+            return createChildInstance(subtype, newQualifiers);
+        }
+        // A child facade shares the creational context with this facade so it may be reused for the same type and qualifiers
+        final SelectKey key = new SelectKey(subtype, newQualifiers);
+        final ComputingCache<SelectKey, WeldInstance<?>> cache = getSelectCache();
+        try {
+            return cache.getCastValue(key);
+        } catch (RuntimeException e) {
+            // e.g. invalid qualifiers - do not keep the key
+            cache.invalidate(key);
+            throw e;
+        }
+    }
+
+    private <U extends T> WeldInstance<U> createChildInstance(Type subtype, Annotation[] newQualifiers) {
         InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), subtype, getQualifiers(),
                 newQualifiers);
         return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
     }
 
+    private ComputingCache<SelectKey, WeldInstance<?>> getSelectCache() {
+        ComputingCache<SelectKey, WeldInstance<?>> cache = selectCache;
+        if (cache == null) {
+            // do not lock on this facade - it's accessible to the application
+            cache = ComputingCacheBuilder.newBuilder().setMaxSize(SELECT_CACHE_SIZE).build((key) -> createChildInstance(key.type, key.qualifiers));
+            if (!SELECT_CACHE_UPDATER.compareAndSet(this, null, cache)) {
+                cache = selectCache;
+            }
+        }
+        return cache;
+    }
+
     @Override
     public void destroy(T instance) {
         Preconditions.checkNotNull(instance);
@@ -173,7 +220,7 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
     }
 
     private T getBeanInstance(Bean<?> bean) {
-        final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(ip);
+        final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(getResolution().ip);
         try {
             return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), getCreationalContext(), false));
         } finally {
@@ -191,7 +238,7 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
         throw BeanLogger.LOG.serializationProxyRequired();
     }
 
-    private static class SerializationProxy<T> extends AbstractFacadeSerializationProxy<T, Instance<T>> {
+    private static class SerializationProxy<T> extends AbstractFacadeSerializationProxy<T, WeldInstance<T>> {
 
         private static final long serialVersionUID = 9181171328831559650L;
 
@@ -205,6 +252,101 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
 
     }
 
+    private static final class InstanceHandle<T> implements Handle<T> {
+
+        private final InstanceImpl<T> instance;
+        private final Bean<?> bean;
+        private final T value;
+        private final AtomicBoolean destroyed;
+
+        private InstanceHandle(InstanceImpl<T> instance, Bean<?> bean, T value) {
+            this.instance = instance;
+            this.bean = bean;
+            this.value = value;
+            this.destroyed = new AtomicBoolean(false);
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public Bean<?> getBean() {
+            return bean;
+        }
+
+        @Override
+        public void destroy() {
+            if (destroyed.compareAndSet(false, true)) {
+                instance.destroy(value);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (Dependent.class.equals(bean.getScope())) {
+                destroy();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Handle for " + value + "; destroyed: " + destroyed.get();
+        }
+    }
+
+    private static final class Resolution {
+
+        private final Set<Bean<?>> allBeans;
+        // optimization for the most common path - non-null bean means we are not unsatisfied not ambiguous
+        private final Bean<?> bean;
+        private final InjectionPoint ip;
+
+        private Resolution(InstanceImpl<?> instance) {
+            // Perform typesafe resolution, and possibly attempt to resolve the ambiguity
+            Resolvable resolvable = new ResolvableBuilder(instance.getType(), instance.getBeanManager()).addQualifiers(instance.getQualifiers())
+                    .setDeclaringBean(instance.getInjectionPoint().getBean()).create();
+            TypeSafeBeanResolver beanResolver = instance.getBeanManager().getBeanResolver();
+            this.allBeans = beanResolver.resolve(beanResolver.resolve(resolvable, Reflections.isCacheable(instance.getQualifiers())));
+            this.bean = allBeans.size() == 1 ? allBeans.iterator().next() : null;
+            // Generate a correct injection point for the bean, we do this by taking the original injection point and adjusting the
+            // qualifiers and type
+            this.ip = new DynamicLookupInjectionPoint(instance.getInjectionPoint(), instance.getType(), instance.getQualifiers());
+        }
+    }
+
+    private static final class SelectKey {
+
+        private final Type type;
+        private final Annotation[] qualifiers;
+        private final int hashCode;
+
+        private SelectKey(Type type, Annotation[] qualifiers) {
+            this.type = type;
+            // the caller may modify the array later
+            this.qualifiers = qualifiers.length == 0 ? qualifiers : qualifiers.clone();
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SelectKey)) {
+                return false;
+            }
+            SelectKey other = (SelectKey) obj;
+            return type.equals(other.type) && Arrays.equals(qualifiers, other.qualifiers);
+        }
+    }
+
     final class InstanceImplIterator implements Iterator<T> {
 
         private final Iterator<Bean<?>> delegate;
@@ -27,6 +27,7 @@ import javax.enterprise.inject.spi.InjectionPoint;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bean.ContextualInstance;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.context.CreationalContextImpl;
 import org.jboss.weld.context.WeldCreationalContext;
 import org.jboss.weld.injection.CurrentInjectionPoint;
@@ -36,6 +37,7 @@ import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.util.reflection.Reflections;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
@@ -52,6 +54,8 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
     private static final long serialVersionUID = -8144230657830556503L;
     // The bean
     private transient Bean<T> bean;
+    // The same bean if it's a Weld bean - allows to use its contextual instance strategy directly
+    private final transient RIBean<T> riBean;
     // The bean index in the manager
     private final BeanIdentifier id;
     private final String contextId;
@@ -71,6 +75,7 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
      */
     public ContextBeanInstance(Bean<T> bean, BeanIdentifier id, String contextId) {
         this.bean = bean;
+        this.riBean = bean instanceof RIBean<?> ? Reflections.<RIBean<T>> cast(bean) : null;
         this.id = id;
         this.contextId = contextId;
         this.instanceType = computeInstanceType(bean);
@@ -80,7 +85,8 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
     }
 
     public T getInstance() {
-        T existingInstance = ContextualInstance.getIfExists(bean, manager);
+        final RIBean<T> riBean = this.riBean;
+        T existingInstance = riBean != null ? ContextualInstance.getIfExists(riBean, manager) : ContextualInstance.getIfExists(bean, manager);
         if (existingInstance != null) {
             return existingInstance;
         }
@@ -96,7 +102,7 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
         // Ensure that there is no injection point associated
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(EmptyInjectionPoint.INSTANCE);
         try {
-            return ContextualInstance.get(bean, manager, creationalContext);
+            return riBean != null ? ContextualInstance.get(riBean, manager, creationalContext) : ContextualInstance.get(bean, manager, creationalContext);
         } finally {
             stack.pop();
             if (previousCreationalContext == null) {
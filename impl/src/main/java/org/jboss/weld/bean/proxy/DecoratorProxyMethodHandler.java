@@ -20,7 +20,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import javax.enterprise.inject.spi.Decorator;
-import javax.inject.Inject;
 
 import org.jboss.weld.annotated.runtime.InvokableAnnotatedMethod;
 import org.jboss.weld.bean.WeldDecorator;
@@ -71,14 +70,13 @@ public class DecoratorProxyMethodHandler extends TargetInstanceProxyMethodHandle
     }
 
     private Object doInvoke(WeldDecorator<?> weldDecorator, Object decoratorInstance, Method method, Object[] args) throws Throwable {
-        if (!method.isAnnotationPresent(Inject.class)) {
-            InvokableAnnotatedMethod<?> decoratorMethod = weldDecorator.getDecoratorMethod(method);
-            if (decoratorMethod != null) {
-                try {
-                    return decoratorMethod.invokeOnInstance(decoratorInstance, args);
-                } catch (InvocationTargetException e) {
-                    throw e.getCause();
-                }
+        // Initializer methods are never reported as decorated
+        InvokableAnnotatedMethod<?> decoratorMethod = weldDecorator.getDecoratorMethod(method);
+        if (decoratorMethod != null) {
+            try {
+                return decoratorMethod.invokeOnInstance(decoratorInstance, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
             }
         }
         SecurityActions.ensureAccessible(method);
@@ -470,7 +470,7 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         // which PD to use
 
         // Dump proxy type bytecode if necessary
-        dumpToFile(proxyClassName, proxyClassType.toBytecode());
+        dumpToFile(proxyClassName, proxyClassType);
 
         ProtectionDomain domain = AccessController.doPrivileged(new GetProtectionDomainAction(proxiedBeanType));
 
@@ -493,11 +493,12 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         }
     }
 
-    private void dumpToFile(String fileName, byte[] data) {
+    private void dumpToFile(String fileName, ClassFile classFile) {
         File proxyDumpFilePath = configuration.getProxyDumpFilePath();
         if (proxyDumpFilePath == null) {
             return;
         }
+        byte[] data = classFile.toBytecode();
         File dumpFile = new File(proxyDumpFilePath, fileName + ".class");
         try {
             Files.write(dumpFile.toPath(), data, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
@@ -85,6 +85,7 @@ import org.jboss.weld.bootstrap.spi.Metadata;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.exceptions.UnproxyableResolutionException;
+import org.jboss.weld.inject.WeldInstance;
 import org.jboss.weld.injection.producer.AbstractMemberProducer;
 import org.jboss.weld.injection.producer.BasicInjectionTarget;
 import org.jboss.weld.interceptor.reader.PlainInterceptorFactory;
@@ -316,6 +317,7 @@ public class Validator implements Service {
             checkScopeAnnotations(ij, beanManager.getServices().get(MetaAnnotationStore.class));
         }
         checkFacadeInjectionPoint(ij, Instance.class);
+        checkFacadeInjectionPoint(ij, WeldInstance.class);
         checkFacadeInjectionPoint(ij, Event.class);
 
         for (PlugableValidator validator : plugableValidators) {
@@ -81,6 +81,7 @@ import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundRequestContextImpl;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.bound.BoundSessionContextImpl;
+import org.jboss.weld.context.cache.RequestScopedCacheSlots;
 import org.jboss.weld.context.unbound.ApplicationContextImpl;
 import org.jboss.weld.context.unbound.DependentContextImpl;
 import org.jboss.weld.context.unbound.RequestContextImpl;
@@ -275,6 +276,7 @@ public class WeldStartup {
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
+        services.add(RequestScopedCacheSlots.class, new RequestScopedCacheSlots());
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
         services.add(MissingDependenciesRegistry.class, new MissingDependenciesRegistry());
 
@@ -145,14 +145,18 @@ public abstract class AbstractContext implements AlterableContext {
 
     private <T> void destroyContextualInstance(ContextualInstance<T> instance) {
         instance.getContextual().destroy(instance.getInstance(), instance.getCreationalContext());
-        ContextLogger.LOG.contextualInstanceRemoved(instance, this);
+        if (ContextLogger.LOG.isTraceEnabled()) {
+            ContextLogger.LOG.contextualInstanceRemoved(instance, this);
+        }
     }
 
     /**
      * Destroys the context
      */
     protected void destroy() {
-        ContextLogger.LOG.contextCleared(this);
+        if (ContextLogger.LOG.isTraceEnabled()) {
+            ContextLogger.LOG.contextCleared(this);
+        }
         final BeanStore beanStore = getBeanStore();
         if (beanStore == null) {
             throw ContextLogger.LOG.noBeanStoreAvailable(this);
@@ -25,6 +25,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
@@ -53,9 +54,19 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     @SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
+    @java.lang.SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, List> DEPENDENT_INSTANCES_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, List.class, "dependentInstances");
 
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    @java.lang.SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, List> PARENT_DEPENDENT_INSTANCES_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, List.class, "parentDependentInstances");
+
+    // Most creational contexts never get a dependent instance - the list is only created once the first one is added
+    private volatile List<ContextualInstance<?>> dependentInstances;
+
+    // Only used if there is no parent creational context, otherwise the dependent instances are added to the parent's dependentInstances directly
+    private volatile List<ContextualInstance<?>> parentDependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -66,16 +77,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient List<AroundConstructCallback<T>> aroundConstructCallbacks;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
-    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances, CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -83,9 +91,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private CreationalContextImpl() {
         this.contextual = null;
         this.parentCreationalContext = null;
-        // We can't use immutable empty lists because of some rare scenarios with Instance.get()
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
     }
 
     public void push(T incompleteInstance) {
@@ -96,11 +101,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> CreationalContextImpl<S> getProducerReceiverCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, null);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -112,7 +117,22 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        if (parentCreationalContext != null) {
+            getOrCreate(parentCreationalContext, DEPENDENT_INSTANCES_UPDATER).add(contextualInstance);
+        } else {
+            getOrCreate(this, PARENT_DEPENDENT_INSTANCES_UPDATER).add(contextualInstance);
+        }
+    }
+
+    @java.lang.SuppressWarnings({ "rawtypes", "unchecked" })
+    private static List<ContextualInstance<?>> getOrCreate(CreationalContextImpl<?> creationalContext,
+            AtomicReferenceFieldUpdater<CreationalContextImpl, List> updater) {
+        List<ContextualInstance<?>> instances = updater.get(creationalContext);
+        if (instances == null) {
+            updater.compareAndSet(creationalContext, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()));
+            instances = updater.get(creationalContext);
+        }
+        return instances;
     }
 
     public void release() {
@@ -121,11 +141,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
-        synchronized (dependentInstances) {
-            for (ContextualInstance<?> dependentInstance : dependentInstances) {
-                // do not destroy contextual again, since it's just being destroyed
-                if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
-                    destroy(dependentInstance);
+        final List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (ContextualInstance<?> dependentInstance : dependentInstances) {
+                    // do not destroy contextual again, since it's just being destroyed
+                    if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
+                        destroy(dependentInstance);
+                    }
                 }
             }
         }
@@ -151,39 +174,45 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * Returns an unmodifiable list of dependent instances.
      */
     public List<ContextualInstance<?>> getDependentInstances() {
-        return WeldCollections.immutableListView(dependentInstances);
+        final List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        return dependentInstances == null ? Collections.<ContextualInstance<?>> emptyList() : WeldCollections.immutableListView(dependentInstances);
     }
 
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
-        synchronized (dependentInstances) {
-            for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
-                ContextualInstance<?> instance = iterator.next();
-                if (!(instance.getInstance() instanceof Serializable)) {
-                    /*
-                     * This non-serializable instance is a dependency of a passivation capable enclosing bean. This means that:
-                     *
-                     * 1) The dependency was injected into a transient field, constructor or initializer injection point of the enclosing bean instance
-                     * (otherwise it would not pass deployment validation) and is no longer retained by the enclosing bean instance. In that case we can safely
-                     * destroy the dependent instance now.
-                     *
-                     * 2) Same as above but the enclosing bean instance retained a reference in a field that Weld has no control of. If that is the case and the
-                     * bean class does not implement serialization properly, serialization of the bean instance is going to fail anyway so it is safe to destroy
-                     * the dependent instance now.
-                     *
-                     * 3) Same as above but the bean class implements serialization properly (writeObject) so that it is able to reconstruct the state of the
-                     * injected dependency on activation. If that's the case we would probably won't be able to destroy the dependency later on anyway since the
-                     * identity of the dependent instance would change. Destroying it now may be risky in certain circumstances.
-                     *
-                     * @see https://issues.jboss.org/browse/WELD-1076
-                     */
-                    destroy(instance);
-                    iterator.remove();
+        // a list that was never created is serialized as null, i.e. the deserialized instance creates it lazily as well
+        final List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
+                    ContextualInstance<?> instance = iterator.next();
+                    if (!(instance.getInstance() instanceof Serializable)) {
+                        /*
+                         * This non-serializable instance is a dependency of a passivation capable enclosing bean. This means that:
+                         *
+                         * 1) The dependency was injected into a transient field, constructor or initializer injection point of the enclosing bean instance
+                         * (otherwise it would not pass deployment validation) and is no longer retained by the enclosing bean instance. In that case we can
+                         * safely destroy the dependent instance now.
+                         *
+                         * 2) Same as above but the enclosing bean instance retained a reference in a field that Weld has no control of. If that is the case and
+                         * the bean class does not implement serialization properly, serialization of the bean instance is going to fail anyway so it is safe to
+                         * destroy the dependent instance now.
+                         *
+                         * 3) Same as above but the bean class implements serialization properly (writeObject) so that it is able to reconstruct the state of
+                         * the injected dependency on activation. If that's the case we would probably won't be able to destroy the dependency later on anyway
+                         * since the identity of the dependent instance would change. Destroying it now may be risky in certain circumstances.
+                         *
+                         * @see https://issues.jboss.org/browse/WELD-1076
+                         */
+                        destroy(instance);
+                        iterator.remove();
+                    }
                 }
             }
         }
         // Return a serialization proxy for an "empty" instance
-        if (parentCreationalContext == null && dependentInstances.isEmpty() && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
+        if (parentCreationalContext == null && (dependentInstances == null || dependentInstances.isEmpty())
+                && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
             return SERIALIZATION_PROXY;
         }
         return this;
@@ -207,6 +236,10 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @return true if the instance was destroyed, false otherwise
      */
     public boolean destroyDependentInstance(T instance) {
+        final List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return false;
+        }
         synchronized (dependentInstances) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> contextualInstance = iterator.next();
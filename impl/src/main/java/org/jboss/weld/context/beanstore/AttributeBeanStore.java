@@ -98,7 +98,9 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
                     for (BeanIdentifier id : beanStore) {
                         ContextualInstance<?> instance = beanStore.get(id);
                         String prefixedId = getNamingScheme().prefix(id);
-                        ContextLogger.LOG.updatingStoreWithContextualUnderId(instance, id);
+                        if (ContextLogger.LOG.isTraceEnabled()) {
+                            ContextLogger.LOG.updatingStoreWithContextualUnderId(instance, id);
+                        }
                         setAttribute(prefixedId, instance);
                     }
                 }
@@ -122,7 +124,9 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
             if (!beanStore.contains(id)) {
                 ContextualInstance<?> instance = (ContextualInstance<?>) getAttribute(prefixedId);
                 beanStore.put(id, instance);
-                ContextLogger.LOG.addingDetachedContextualUnderId(instance, id);
+                if (ContextLogger.LOG.isTraceEnabled()) {
+                    ContextLogger.LOG.addingDetachedContextualUnderId(instance, id);
+                }
             }
         }
     }
@@ -140,7 +144,9 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
                 beanStore.put(id, instance);
             }
         }
-        ContextLogger.LOG.contextualInstanceFound(id, instance, this);
+        if (ContextLogger.LOG.isTraceEnabled()) {
+            ContextLogger.LOG.contextualInstanceFound(id, instance, this);
+        }
         return instance;
     }
 
@@ -150,7 +156,9 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
         if (isAttached()) {
             setAttribute(namingScheme.prefix(id), instance);
         }
-        ContextLogger.LOG.contextualInstanceAdded(instance.getContextual(), id, this);
+        if (ContextLogger.LOG.isTraceEnabled()) {
+            ContextLogger.LOG.contextualInstanceAdded(instance.getContextual(), id, this);
+        }
     }
 
     @Override
@@ -160,7 +168,9 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
             if (isAttached()) {
                 removeAttribute(namingScheme.prefix(id));
             }
-            ContextLogger.LOG.contextualInstanceRemoved(id, this);
+            if (ContextLogger.LOG.isTraceEnabled()) {
+                ContextLogger.LOG.contextualInstanceRemoved(id, this);
+            }
         }
         return instance;
     }
@@ -174,9 +184,13 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
                 removeAttribute(prefixedId);
             }
             it.remove();
-            ContextLogger.LOG.contextualInstanceRemoved(id, this);
+            if (ContextLogger.LOG.isTraceEnabled()) {
+                ContextLogger.LOG.contextualInstanceRemoved(id, this);
+            }
+        }
+        if (ContextLogger.LOG.isTraceEnabled()) {
+            ContextLogger.LOG.contextCleared(this);
         }
-        ContextLogger.LOG.contextCleared(this);
     }
 
     public boolean contains(BeanIdentifier id) {
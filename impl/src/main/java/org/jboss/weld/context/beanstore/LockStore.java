@@ -34,8 +34,9 @@ public class LockStore implements Serializable {
 
     private static final long serialVersionUID = -698649566870070414L;
 
+    // Only allocated while a lock is held - a lock store is kept in every HTTP session for its whole lifetime
     @SuppressWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks;
 
     public LockedBean lock(BeanIdentifier id) {
         ReferenceCountedLock refLock;
@@ -70,6 +71,9 @@ public class LockStore implements Serializable {
                 --count;
                 if (count == 0) {
                     locks.remove(key);
+                    if (locks.isEmpty()) {
+                        locks = null;
+                    }
                 }
             }
         }
@@ -16,18 +16,35 @@
  */
 package org.jboss.weld.context.cache;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Caches beans over the life of a request, to allow for efficient bean lookups from proxies.
  * Besides, can hold any ThreadLocals to be removed at the end of the request.
+ * <p>
+ * Cached bean instances are stored in slots of per-request arrays. Each caching component allocates its slot once using {@link #allocateSlot()} so that
+ * a lookup only costs a single thread-local access and two array accesses, no matter how many beans are cached. Slots are shared by all the containers
+ * running in the JVM and are reused once released, see {@link RequestScopedCacheSlots}. Therefore, each value is stored together with its owner.
  *
  * @author Stuart Douglas
  */
 public class RequestScopedCache {
 
-    private static final ThreadLocal<List<RequestScopedItem>> CACHE = new ThreadLocal<List<RequestScopedItem>>();
+    private static final ThreadLocal<Request> CACHE = new ThreadLocal<Request>();
+
+    // slots currently held by the running containers - the lowest free slot is always allocated so that the per-request arrays stay small
+    private static final BitSet ALLOCATED_SLOTS = new BitSet();
+
+    // the number of slots a request may need, used to size the page array of a request at once
+    private static volatile int slotCount;
+
+    // slot values are stored in pages so that a request only allocates the pages of the slots it uses
+    private static final int PAGE_SHIFT = 5;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
 
     private RequestScopedCache() {
     }
@@ -36,31 +53,31 @@ public class RequestScopedCache {
         return CACHE.get() != null;
     }
 
-    private static void checkCacheForAdding(final List<RequestScopedItem> cache) {
+    private static void checkCacheForAdding(final Request cache) {
         if (cache == null) {
             throw new IllegalStateException("Unable to add request scoped cache item when request cache is not active");
         }
     }
 
     public static void addItem(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Request cache = CACHE.get();
         checkCacheForAdding(cache);
-        cache.add(item);
+        cache.items.add(item);
     }
 
     public static boolean addItemIfActive(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Request cache = CACHE.get();
         if (cache != null) {
-            cache.add(item);
+            cache.items.add(item);
             return true;
         }
         return false;
     }
 
     public static boolean addItemIfActive(final ThreadLocal<?> item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final Request cache = CACHE.get();
         if (cache != null) {
-            cache.add(new RequestScopedItem() {
+            cache.items.add(new RequestScopedItem() {
                 public void invalidate() {
                     item.remove();
                 }
@@ -70,10 +87,87 @@ public class RequestScopedCache {
         return false;
     }
 
+    /**
+     * Allocates the lowest free slot. A component should allocate its slot once and keep it until {@link #releaseSlot(int)} is called.
+     *
+     * @return the slot index
+     * @see #getSlotValue(int, Object)
+     * @see #setSlotValueIfActive(int, Object, Object)
+     */
+    public static int allocateSlot() {
+        synchronized (ALLOCATED_SLOTS) {
+            int slot = ALLOCATED_SLOTS.nextClearBit(0);
+            ALLOCATED_SLOTS.set(slot);
+            slotCount = ALLOCATED_SLOTS.length();
+            return slot;
+        }
+    }
+
+    /**
+     * Releases the given slot so that it may be allocated again. Values stored by the previous owner are never returned to the next one.
+     *
+     * @param slot
+     */
+    public static void releaseSlot(int slot) {
+        synchronized (ALLOCATED_SLOTS) {
+            ALLOCATED_SLOTS.clear(slot);
+            slotCount = ALLOCATED_SLOTS.length();
+        }
+    }
+
+    /**
+     *
+     * @param slot
+     * @param owner the component the slot is allocated for
+     * @return the value stored in the given slot by the given owner or <code>null</code> if there is no such value or the cache is not active
+     */
+    public static Object getSlotValue(final int slot, final Object owner) {
+        final Request cache = CACHE.get();
+        if (cache == null) {
+            return null;
+        }
+        final Object[][] pages = cache.pages;
+        final int page = slot >>> PAGE_SHIFT;
+        final Object[] values = page < pages.length ? pages[page] : null;
+        if (values == null) {
+            return null;
+        }
+        final int index = (slot & PAGE_MASK) << 1;
+        return values[index] == owner ? values[index + 1] : null;
+    }
+
+    /**
+     * Stores the value in the given slot. The value is discarded at the end of the request.
+     *
+     * @param slot
+     * @param owner the component the slot is allocated for
+     * @param value
+     * @return <code>true</code> if the cache is active and the value was stored, <code>false</code> otherwise
+     */
+    public static boolean setSlotValueIfActive(final int slot, final Object owner, final Object value) {
+        final Request cache = CACHE.get();
+        if (cache != null) {
+            Object[][] pages = cache.pages;
+            final int page = slot >>> PAGE_SHIFT;
+            if (page >= pages.length) {
+                pages = cache.pages = Arrays.copyOf(pages, (Math.max(slotCount, slot + 1) + PAGE_MASK) >>> PAGE_SHIFT);
+            }
+            Object[] values = pages[page];
+            if (values == null) {
+                values = pages[page] = new Object[PAGE_SIZE << 1];
+            }
+            final int index = (slot & PAGE_MASK) << 1;
+            values[index] = owner;
+            values[index + 1] = value;
+            return true;
+        }
+        return false;
+    }
+
     public static void beginRequest() {
         // if the previous request was not ended properly for some reason, make sure it is ended now
         endRequest();
-        CACHE.set(new LinkedList<RequestScopedItem>());
+        CACHE.set(new Request());
     }
 
     /**
@@ -81,10 +175,10 @@ public class RequestScopedCache {
      * in which case the cache will be unavailable for the rest of the request.
      */
     public static void endRequest() {
-        final List<RequestScopedItem> result = CACHE.get();
+        final Request result = CACHE.get();
         if (result != null) {
             CACHE.remove();
-            for (final RequestScopedItem item : result) {
+            for (final RequestScopedItem item : result.items) {
                 item.invalidate();
             }
         }
@@ -100,4 +194,14 @@ public class RequestScopedCache {
         }
     }
 
+    private static final class Request {
+
+        private static final Object[][] NO_PAGES = new Object[0][];
+
+        private final List<RequestScopedItem> items = new LinkedList<RequestScopedItem>();
+
+        // pages of owner and value pairs - slot values are simply discarded together with the request
+        private Object[][] pages = NO_PAGES;
+    }
+
 }
@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Keeps track of the {@link RequestScopedCache} slots allocated by a container. The slots are released when the container is shut down so that they
+ * can be reused by other containers running in the same JVM, e.g. after a redeployment.
+ */
+public class RequestScopedCacheSlots implements Service {
+
+    private final List<Integer> slots = new ArrayList<Integer>();
+
+    /**
+     *
+     * @return a slot allocated for this container
+     * @see RequestScopedCache#allocateSlot()
+     */
+    public synchronized int allocate() {
+        int slot = RequestScopedCache.allocateSlot();
+        slots.add(slot);
+        return slot;
+    }
+
+    /**
+     * Releases a slot allocated for this container before the container is shut down.
+     *
+     * @param slot
+     * @see RequestScopedCache#releaseSlot(int)
+     */
+    public synchronized void release(int slot) {
+        if (slots.remove(Integer.valueOf(slot))) {
+            RequestScopedCache.releaseSlot(slot);
+        }
+    }
+
+    @Override
+    public synchronized void cleanup() {
+        for (Integer slot : slots) {
+            RequestScopedCache.releaseSlot(slot);
+        }
+        slots.clear();
+    }
+
+}
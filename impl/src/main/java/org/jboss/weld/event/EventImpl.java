@@ -88,6 +88,10 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
     public void fire(T event) {
         Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
         CachedObservers observers = getObservers(event);
+        if (observers.observers.isEmpty()) {
+            // no observers - nothing to dispatch
+            return;
+        }
         // we can do lenient here as the event type is checked within #getObservers()
         getBeanManager().getGlobalLenientObserverNotifier().notify(observers.observers, event, observers.syncMetadata);
     }
@@ -107,6 +111,9 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
 
     private <U extends T> CompletionStage<U> fireAsyncInternal(U event, Executor executor) {
         CachedObservers observers = getObservers(event);
+        if (observers.observers.isEmpty()) {
+            return AsyncEventDeliveryStage.completed(event);
+        }
         // we can do lenient here as the event type is checked within #getObservers()
         return getBeanManager().getGlobalLenientObserverNotifier().notifyAsync(observers.observers, event, observers.asyncMetadata, executor);
     }
@@ -131,6 +138,10 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
         final Type eventType = getEventType(runtimeType);
         // this performs type check
         final ResolvedObservers<T> observers = getBeanManager().getGlobalStrictObserverNotifier().resolveObserverMethods(eventType, getQualifiers());
+        if (!observers.isMetadataRequired()) {
+            // metadata would be ignored during notification anyway
+            return new CachedObservers(runtimeType, observers, null, null);
+        }
         final EventMetadata syncMetadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers(), false);
         final EventMetadata asyncMetadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers(), true);
         return new CachedObservers(runtimeType, observers, syncMetadata, asyncMetadata);
@@ -16,7 +16,10 @@
  */
 package org.jboss.weld.event;
 
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.spi.EventMetadata;
@@ -73,6 +76,9 @@ public class FastEvent<T> {
      */
     public static <T> FastEvent<T> of(Class<T> type, BeanManagerImpl manager, ObserverNotifier notifier, Annotation... qualifiers) {
         ResolvedObservers<T> resolvedObserverMethods = notifier.<T> resolveObserverMethods(type, qualifiers);
+        if (resolvedObserverMethods.isEmpty()) {
+            return cast(NO_OBSERVERS);
+        }
         if (resolvedObserverMethods.isMetadataRequired()) {
             EventMetadata metadata = new EventMetadataImpl(type, null, qualifiers);
             CurrentEventMetadata metadataService = manager.getServices().get(CurrentEventMetadata.class);
@@ -82,6 +88,16 @@ public class FastEvent<T> {
         }
     }
 
+    /**
+     * Used if there are no observer methods to notify.
+     */
+    private static final FastEvent<Object> NO_OBSERVERS = new FastEvent<Object>(ResolvedObservers.of(Collections.emptyList())) {
+        @Override
+        public void fire(Object event) {
+            // noop
+        }
+    };
+
     private final ResolvedObservers<T> resolvedObserverMethods;
 
     private FastEvent(ResolvedObservers<T> resolvedObserverMethods) {
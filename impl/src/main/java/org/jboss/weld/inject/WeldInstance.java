@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.inject;
+
+import java.lang.annotation.Annotation;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.util.TypeLiteral;
+
+/**
+ * Weld-specific version of {@link Instance}. The built-in {@link Instance} bean has this type as well, i.e. it's possible to inject it directly:
+ *
+ * <pre>
+ * &#64;Inject
+ * WeldInstance&lt;Foo&gt; instance;
+ *
+ * void ping() {
+ *     try (Handle&lt;Foo&gt; handle = instance.getHandle()) {
+ *         handle.get().ping();
+ *     }
+ * }
+ * </pre>
+ *
+ * An injected {@link Instance} may also be cast to this type, even if it's decorated.
+ *
+ * @param <T> the required bean type
+ */
+public interface WeldInstance<T> extends Instance<T> {
+
+    /**
+     * Obtains a contextual reference the same way {@link #get()} does and wraps it in a {@link Handle}. Closing the handle destroys a {@link Dependent}
+     * bean instance, i.e. the instance is not retained by the creational context of this instance until this instance itself is destroyed. Closing the
+     * handle of a normal-scoped bean has no effect as the contextual instance is shared with other clients.
+     *
+     * @return a new handle
+     * @throws javax.enterprise.inject.UnsatisfiedResolutionException if there is no bean that matches the required type and qualifiers
+     * @throws javax.enterprise.inject.AmbiguousResolutionException if there is more than one bean that matches the required type and qualifiers
+     */
+    Handle<T> getHandle();
+
+    @Override
+    WeldInstance<T> select(Annotation... qualifiers);
+
+    @Override
+    <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers);
+
+    @Override
+    <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers);
+
+    /**
+     * A contextual reference obtained via {@link WeldInstance#getHandle()}. The reference should not be used once the handle is destroyed.
+     *
+     * @param <T> the required bean type
+     */
+    interface Handle<T> extends AutoCloseable {
+
+        /**
+         *
+         * @return the contextual reference
+         */
+        T get();
+
+        /**
+         *
+         * @return the bean the contextual reference belongs to
+         */
+        Bean<?> getBean();
+
+        /**
+         * Destroys the contextual reference, even if the bean is normal-scoped. Subsequent invocations are no-op.
+         *
+         * @see Instance#destroy(Object)
+         */
+        void destroy();
+
+        /**
+         * Destroys the contextual reference if the bean is {@link Dependent}. Otherwise, the contextual instance is left intact.
+         */
+        @Override
+        void close();
+
+    }
+
+}
@@ -45,6 +45,8 @@ abstract class AbstractCallableInjectionPoint<T, X, S extends Member> implements
     private final List<ParameterInjectionPoint<?, X>> parameters;
     private final Set<InjectionPoint> injectionPoints;
     protected final boolean hasTransientReferenceParameter;
+    // Indicates which parameters are annotated with @TransientReference, null if there is no such parameter
+    private final boolean[] transientReferenceParameters;
 
     protected AbstractCallableInjectionPoint(EnhancedAnnotatedCallable<T, X, S> callable, Bean<?> declaringBean, Class<?> declaringComponentClass, boolean observerOrDisposer, InjectionPointFactory factory, BeanManagerImpl manager) {
         this.declaringBean = declaringBean;
@@ -59,16 +61,30 @@ abstract class AbstractCallableInjectionPoint<T, X, S extends Member> implements
                 }
             };
         }
-        this.hasTransientReferenceParameter = initHasTransientReference(callable.getEnhancedParameters());
+        this.transientReferenceParameters = initTransientReferenceParameters(callable.getEnhancedParameters());
+        this.hasTransientReferenceParameter = transientReferenceParameters != null;
     }
 
-    private static boolean initHasTransientReference(List<? extends EnhancedAnnotatedParameter<?, ?>> parameters) {
+    private static boolean[] initTransientReferenceParameters(List<? extends EnhancedAnnotatedParameter<?, ?>> parameters) {
+        boolean[] result = null;
         for (EnhancedAnnotatedParameter<?, ?> parameter : parameters) {
             if (parameter.isAnnotationPresent(TransientReference.class)) {
-                return true;
+                if (result == null) {
+                    result = new boolean[parameters.size()];
+                }
+                result[parameter.getPosition()] = true;
             }
         }
-        return false;
+        return result;
+    }
+
+    /**
+     *
+     * @param position
+     * @return <code>true</code> if the parameter at the given position is annotated with {@link TransientReference}, <code>false</code> otherwise
+     */
+    protected boolean isTransientReferenceParameter(int position) {
+        return transientReferenceParameters != null && transientReferenceParameters[position];
     }
 
     @Override
@@ -27,7 +27,6 @@ import java.util.List;
 import java.util.Map;
 
 import javax.enterprise.context.spi.CreationalContext;
-import javax.enterprise.inject.TransientReference;
 import javax.enterprise.inject.spi.AnnotatedConstructor;
 import javax.enterprise.inject.spi.Bean;
 
@@ -144,7 +143,7 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
         List<ParameterInjectionPoint<?, T>> parameters = getParameterInjectionPoints();
         for (int i = 0; i < parameterValues.length; i++) {
             ParameterInjectionPoint<?, ?> param = parameters.get(i);
-            if (hasTransientReferenceParameter && param.getAnnotated().isAnnotationPresent(TransientReference.class)) {
+            if (isTransientReferenceParameter(i)) {
                 parameterValues[i] = param.getValueToInject(manager, transientReference);
             } else {
                 parameterValues[i] = param.getValueToInject(manager, ctx);
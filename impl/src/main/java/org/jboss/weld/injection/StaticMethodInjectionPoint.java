@@ -20,14 +20,17 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.context.spi.CreationalContext;
-import javax.enterprise.inject.TransientReference;
 import javax.enterprise.inject.spi.AnnotatedMethod;
 import javax.enterprise.inject.spi.Bean;
 
@@ -46,10 +49,11 @@ import org.jboss.weld.util.collections.Arrays2;
  */
 class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
 
-    // TODO transient reference mask instead of looking up annotations
     private final int specialInjectionPointIndex;
     private final AnnotatedMethod<X> annotatedMethod;
     final Method accessibleMethod;
+    // (Object receiver, Object specialValue)Object handle, only set if the special parameter is the only parameter of the method
+    private final MethodHandle specialValueOnlyHandle;
 
     StaticMethodInjectionPoint(EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory, BeanManagerImpl manager) {
@@ -57,6 +61,23 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         this.accessibleMethod = SecurityActions.getAccessibleCopyOfMethod(enhancedMethod.getJavaMember());
         this.annotatedMethod = enhancedMethod.slim();
         this.specialInjectionPointIndex = initSpecialInjectionPointIndex(enhancedMethod, specialParameterMarkers);
+        this.specialValueOnlyHandle = initSpecialValueOnlyHandle();
+    }
+
+    private MethodHandle initSpecialValueOnlyHandle() {
+        if (specialInjectionPointIndex == -1 || !getInjectionPoints().isEmpty() || accessibleMethod.getParameterTypes().length != 1) {
+            return null;
+        }
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(accessibleMethod);
+            if (Modifier.isStatic(accessibleMethod.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            // fall back to reflection
+            return null;
+        }
     }
 
     private static <X> int initSpecialInjectionPointIndex(EnhancedAnnotatedMethod<?, X> enhancedMethod, Set<Class<? extends Annotation>> specialParameterMarkers) {
@@ -78,6 +99,10 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
 
     public T invoke(Object receiver, Object specialValue, BeanManagerImpl manager, CreationalContext<?> ctx,
             Class<? extends RuntimeException> exceptionTypeToThrow) {
+        if (specialValueOnlyHandle != null && isDirectlyInvocable(receiver)) {
+            // neither parameter values nor transient references to take care of - skip reflection
+            return invokeDirectly(receiver, specialValue, exceptionTypeToThrow);
+        }
         CreationalContext<?> transientReferenceContext = null;
         if (hasTransientReferenceParameter) {
             transientReferenceContext = manager.createCreationalContext(null);
@@ -108,6 +133,15 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         return null;
     }
 
+    private T invokeDirectly(Object receiver, Object specialValue, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        try {
+            return cast(specialValueOnlyHandle.invokeExact(receiver, specialValue));
+        } catch (Throwable e) {
+            rethrowException(e, exceptionTypeToThrow);
+        }
+        return null;
+    }
+
     /**
      * Helper method for getting the current parameter values from a list of annotated parameters.
      *
@@ -129,7 +163,7 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
             ParameterInjectionPoint<?, ?> param = parameters.get(i);
             if (i == specialInjectionPointIndex) {
                 parameterValues[i] = specialVal;
-            } else if (hasTransientReferenceParameter && param.getAnnotated().isAnnotationPresent(TransientReference.class)) {
+            } else if (isTransientReferenceParameter(i)) {
                 parameterValues[i] = param.getValueToInject(manager, transientReferenceContext);
             } else {
                 parameterValues[i] = param.getValueToInject(manager, ctx);
@@ -138,6 +172,14 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         return parameterValues;
     }
 
+    /**
+     * The handle dispatches virtually on the declaring class so the receiver must be an instance of that class. Other receivers (e.g. EJB proxies) are
+     * invoked via {@link #getMethod(Object)}.
+     */
+    private boolean isDirectlyInvocable(Object receiver) {
+        return Modifier.isStatic(accessibleMethod.getModifiers()) || accessibleMethod.getDeclaringClass().isInstance(receiver);
+    }
+
     protected Method getMethod(Object receiver) throws NoSuchMethodException {
         return accessibleMethod;
     }
@@ -16,6 +16,10 @@
  */
 package org.jboss.weld.injection.producer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.util.List;
@@ -45,16 +49,19 @@ public class DefaultLifecycleCallbackInvoker<T> implements LifecycleCallbackInvo
         return new DefaultLifecycleCallbackInvoker<T>(type);
     }
 
-    private final List<Method> accessiblePostConstructMethods;
-    private final List<Method> accessiblePreDestroyMethods;
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final List<LifecycleCallback> postConstructCallbacks;
+    private final List<LifecycleCallback> preDestroyCallbacks;
 
     public DefaultLifecycleCallbackInvoker(EnhancedAnnotatedType<T> type) {
-        this.accessiblePostConstructMethods = initMethodList(BeanMethods.getPostConstructMethods(type));
-        this.accessiblePreDestroyMethods = initMethodList(BeanMethods.getPreDestroyMethods(type));
+        this.postConstructCallbacks = initCallbackList(BeanMethods.getPostConstructMethods(type));
+        this.preDestroyCallbacks = initCallbackList(BeanMethods.getPreDestroyMethods(type));
     }
 
-    private List<Method> initMethodList(List<? extends AnnotatedMethod<?>> methods) {
-        return methods.stream().map((method) -> AccessController.doPrivileged(new GetAccessibleCopyOfMember<Method>(method.getJavaMember()))).collect(ImmutableList.collector());
+    private List<LifecycleCallback> initCallbackList(List<? extends AnnotatedMethod<?>> methods) {
+        return methods.stream().map((method) -> new LifecycleCallback(AccessController.doPrivileged(new GetAccessibleCopyOfMember<Method>(method.getJavaMember()))))
+                .collect(ImmutableList.collector());
     }
 
     @Override
@@ -63,7 +70,7 @@ public class DefaultLifecycleCallbackInvoker<T> implements LifecycleCallbackInvo
         if (instantiator != null && instantiator.hasInterceptorSupport()) {
             InterceptionUtils.executePostConstruct(instance);
         } else {
-            invokeMethods(accessiblePostConstructMethods, instance);
+            invokeCallbacks(postConstructCallbacks, instance);
         }
     }
 
@@ -73,27 +80,63 @@ public class DefaultLifecycleCallbackInvoker<T> implements LifecycleCallbackInvo
         if (instantiator != null && instantiator.hasInterceptorSupport()) {
             InterceptionUtils.executePredestroy(instance);
         } else {
-            invokeMethods(accessiblePreDestroyMethods, instance);
+            invokeCallbacks(preDestroyCallbacks, instance);
         }
     }
 
-    private void invokeMethods(List<Method> methods, T instance) {
-        for (Method method : methods) {
-            try {
-                method.invoke(instance);
-            } catch (Exception e) {
-                throw BeanLogger.LOG.invocationError(method, instance, e);
-            }
+    private void invokeCallbacks(List<LifecycleCallback> callbacks, T instance) {
+        for (int i = 0; i < callbacks.size(); i++) {
+            callbacks.get(i).invoke(instance);
         }
     }
 
     @Override
     public boolean hasPreDestroyMethods() {
-        return !accessiblePreDestroyMethods.isEmpty();
+        return !preDestroyCallbacks.isEmpty();
     }
 
     @Override
     public boolean hasPostConstructMethods() {
-        return !accessiblePostConstructMethods.isEmpty();
+        return !postConstructCallbacks.isEmpty();
+    }
+
+    /**
+     * A lifecycle callback method. The method is invoked through a method handle unless the handle cannot be obtained.
+     */
+    private static final class LifecycleCallback {
+
+        private final Method method;
+        private final MethodHandle handle;
+
+        private LifecycleCallback(Method accessibleMethod) {
+            this.method = accessibleMethod;
+            this.handle = initHandle(accessibleMethod);
+        }
+
+        private static MethodHandle initHandle(Method accessibleMethod) {
+            try {
+                return MethodHandles.lookup().unreflect(accessibleMethod).asType(CALLBACK_TYPE);
+            } catch (IllegalAccessException e) {
+                // fall back to reflection
+                return null;
+            }
+        }
+
+        private void invoke(Object instance) {
+            if (handle == null) {
+                try {
+                    method.invoke(instance);
+                } catch (Exception e) {
+                    throw BeanLogger.LOG.invocationError(method, instance, e);
+                }
+            } else {
+                try {
+                    handle.invokeExact(instance);
+                } catch (Throwable e) {
+                    // wrap the same way as if the method was invoked reflectively
+                    throw BeanLogger.LOG.invocationError(method, instance, new InvocationTargetException(e));
+                }
+            }
+        }
     }
 }
\ No newline at end of file
@@ -50,6 +50,7 @@ import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.logging.ValidatorLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.module.EjbSupport;
+import org.jboss.weld.resources.SharedObjectCache;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.collections.Multimap;
 import org.jboss.weld.util.collections.SetMultimap;
@@ -87,7 +88,7 @@ public class InterceptionModelInitializer<T> {
         this.manager = manager;
         this.reader = manager.getInterceptorMetadataReader();
         this.annotatedType = annotatedType;
-        this.builder = new InterceptionModelBuilder();
+        this.builder = new InterceptionModelBuilder(SharedObjectCache.instance(manager));
         if (bean == null) {
             stereotypes = Collections.emptySet();
         } else {
@@ -34,6 +34,7 @@ import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.resources.SharedObjectCache;
 
 
 /**
@@ -64,6 +65,21 @@ public class InterceptionModelBuilder {
 
     private Set<Annotation> classInterceptorBindings;
 
+    private final SharedObjectCache sharedObjectCache;
+
+    public InterceptionModelBuilder() {
+        this(null);
+    }
+
+    /**
+     * If a {@link SharedObjectCache} is specified, the interceptor binding sets retained by the built model are shared with other models.
+     *
+     * @param sharedObjectCache
+     */
+    public InterceptionModelBuilder(SharedObjectCache sharedObjectCache) {
+        this.sharedObjectCache = sharedObjectCache;
+    }
+
     /**
      * @return an immutable {@link InterceptionModel} instance
      */
@@ -173,4 +189,8 @@ public class InterceptionModelBuilder {
         return memberInterceptorBindings;
     }
 
+    SharedObjectCache getSharedObjectCache() {
+        return sharedObjectCache;
+    }
+
 }
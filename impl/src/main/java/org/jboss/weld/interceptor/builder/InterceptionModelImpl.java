@@ -24,12 +24,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.ImmutableMap;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -62,15 +65,41 @@ class InterceptionModelImpl implements InterceptionModel {
 
     InterceptionModelImpl(InterceptionModelBuilder builder) {
         this.hasExternalNonConstructorInterceptors = builder.isHasExternalNonConstructorInterceptors();
-        this.globalInterceptors = ImmutableMap.<InterceptionType, List<InterceptorClassMetadata<?>>>copyOf(builder.getGlobalInterceptors());
-        this.methodBoundInterceptors = ImmutableMap.<InterceptionType, Map<Method,List<InterceptorClassMetadata<?>>>>copyOf(builder.getMethodBoundInterceptors());
+        SharedObjectCache cache = builder.getSharedObjectCache();
+        // The model is retained for the whole lifetime of the application - replace the builder's mutable structures with compact immutable ones
+        // Interceptor lists are never shared with other models - interceptor metadata equality ignores the bean manager specific interceptor factory
+        ImmutableMap.Builder<InterceptionType, List<InterceptorClassMetadata<?>>> globalInterceptorsBuilder = ImmutableMap.builder();
+        for (Entry<InterceptionType, List<InterceptorClassMetadata<?>>> entry : builder.getGlobalInterceptors().entrySet()) {
+            globalInterceptorsBuilder.put(entry.getKey(), ImmutableList.copyOf(entry.getValue()));
+        }
+        this.globalInterceptors = globalInterceptorsBuilder.build();
+        ImmutableMap.Builder<InterceptionType, Map<Method, List<InterceptorClassMetadata<?>>>> methodBoundInterceptorsBuilder = ImmutableMap.builder();
+        for (Entry<InterceptionType, Map<Method, List<InterceptorClassMetadata<?>>>> entry : builder.getMethodBoundInterceptors().entrySet()) {
+            ImmutableMap.Builder<Method, List<InterceptorClassMetadata<?>>> methodsBuilder = ImmutableMap.builder();
+            for (Entry<Method, List<InterceptorClassMetadata<?>>> methodEntry : entry.getValue().entrySet()) {
+                methodsBuilder.put(methodEntry.getKey(), ImmutableList.copyOf(methodEntry.getValue()));
+            }
+            methodBoundInterceptorsBuilder.put(entry.getKey(), methodsBuilder.build());
+        }
+        this.methodBoundInterceptors = methodBoundInterceptorsBuilder.build();
         this.methodsIgnoringGlobalInterceptors = ImmutableSet.<Method>copyOf(builder.getMethodsIgnoringGlobalInterceptors());
         this.allInterceptors = ImmutableSet.<InterceptorClassMetadata<?>>copyOf(builder.getAllInterceptors());
         this.targetClassInterceptorMetadata = builder.getTargetClassInterceptorMetadata();
-        this.memberInterceptorBindings = ImmutableMap.<Member, Set<Annotation>>copyOf(builder.getMemberInterceptorBindings());
+        ImmutableMap.Builder<Member, Set<Annotation>> memberInterceptorBindingsBuilder = ImmutableMap.builder();
+        for (Entry<Member, Set<Annotation>> entry : builder.getMemberInterceptorBindings().entrySet()) {
+            memberInterceptorBindingsBuilder.put(entry.getKey(), compact(entry.getValue(), cache));
+        }
+        this.memberInterceptorBindings = memberInterceptorBindingsBuilder.build();
         this.classInterceptorBindings = ImmutableSet.copyOf(builder.getClassInterceptorBindings());
     }
 
+    private static <T> Set<T> compact(Set<T> set, SharedObjectCache cache) {
+        if (set == null) {
+            return null;
+        }
+        return cache != null ? cache.getSharedSet(set) : ImmutableSet.copyOf(set);
+    }
+
     @Override
     public List<InterceptorClassMetadata<?>> getInterceptors(InterceptionType interceptionType, Method method) {
         if (InterceptionType.AROUND_CONSTRUCT.equals(interceptionType)) {
@@ -496,4 +496,8 @@ public interface BeanLogger extends WeldLogger {
     @Message(id = 1563, value = "A producer field type may not be a type variable or an array type whose component type is a type variable: \n  {0}\n\tat {1}\n  StackTrace:", format = Format.MESSAGE_FORMAT)
     DefinitionException producerFieldTypeInvalidTypeVariable(Object param1, String stackElement);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1564, value = "Request scoped cache slots not available - contextual instances of {0} will not be cached within a request", format = Format.MESSAGE_FORMAT)
+    void requestScopedCacheSlotsNotAvailable(Object param1);
+
 }
\ No newline at end of file
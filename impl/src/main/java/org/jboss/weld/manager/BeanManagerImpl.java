@@ -657,12 +657,19 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     private Context internalGetContext(Class<? extends Annotation> scopeType) {
-        Context activeContext = null;
         final List<Context> ctx = contexts.get(scopeType);
         if (ctx == null) {
             return null;
         }
-        for (Context context : ctx) {
+        // Context lists are only appended to - most scopes are backed by a single context
+        final int size = ctx.size();
+        if (size == 1) {
+            Context context = ctx.get(0);
+            return context.isActive() ? context : null;
+        }
+        Context activeContext = null;
+        for (int i = 0; i < size; i++) {
+            Context context = ctx.get(i);
             if (context.isActive()) {
                 if (activeContext == null) {
                     activeContext = context;
@@ -744,8 +751,10 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         Preconditions.checkArgumentNotNull(resolvedBean, "resolvedBean");
         Preconditions.checkArgumentNotNull(creationalContext, CREATIONAL_CONTEXT);
 
-        boolean registerInjectionPoint = isRegisterableInjectionPoint(injectionPoint);
         boolean delegateInjectionPoint = injectionPoint != null && injectionPoint.isDelegate();
+        // If a client proxy is returned no instance is created during this lookup and so the injection point cannot be observed - skip the thread-local
+        // access altogether
+        boolean registerInjectionPoint = isRegisterableInjectionPoint(injectionPoint) && !isProxyRequired(resolvedBean);
 
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.pushConditionally(injectionPoint, registerInjectionPoint);
         try {
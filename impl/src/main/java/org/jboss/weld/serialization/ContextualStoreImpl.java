@@ -26,6 +26,7 @@ import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.PassivationCapable;
 
+import org.jboss.weld.bean.BeanIdentifiers;
 import org.jboss.weld.bean.CommonBean;
 import org.jboss.weld.bean.StringBeanIdentifier;
 import org.jboss.weld.context.SerializableContextualFactory;
@@ -43,7 +44,8 @@ import org.jboss.weld.util.reflection.Reflections;
  */
 public class ContextualStoreImpl implements ContextualStore {
 
-    private static final String GENERATED_ID_PREFIX = ContextualStoreImpl.class.getName();
+    // Generated identifiers end up in attribute names of bean stores (e.g. HTTP session) - keep the prefix short
+    private static final String GENERATED_ID_PREFIX = BeanIdentifiers.getPrefix(ContextualStoreImpl.class).toString();
 
     // The map containing container-local contextuals
     private final ConcurrentMap<Contextual<?>, BeanIdentifier> contextuals;
@@ -121,7 +123,7 @@ public class ContextualStoreImpl implements ContextualStore {
                 synchronized (contextual) {
                     id = contextuals.get(contextual);
                     if (id == null) {
-                        id = new StringBeanIdentifier(new StringBuilder().append(GENERATED_ID_PREFIX).append(idGenerator.incrementAndGet()).toString());
+                        id = new StringBeanIdentifier(GENERATED_ID_PREFIX + Integer.toString(idGenerator.incrementAndGet(), Character.MAX_RADIX));
                         contextuals.put(contextual, id);
                         contextualsInverse.put(id, contextual);
                     }
@@ -17,7 +17,6 @@
 package org.jboss.weld.util.bytecode;
 
 
-import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -74,6 +73,11 @@ public class ClassFileUtils {
      * <p/>
      * This method is provided for convenience. If you need more complex
      * functionality, you should write your own class loader.
+     * <p/>
+     * <p/>
+     * No global lock is held while the class is defined. If two threads define
+     * the same class concurrently, one of them fails with a
+     * <code>LinkageError</code> and should load the class defined by the other.
      *
      * @param loader the class loader used to load this class. For example, the
      *               loader returned by <code>getClassLoader()</code> can be used for
@@ -94,7 +98,7 @@ public class ClassFileUtils {
                 args = new Object[]{ct.getName(), b, 0, b.length, domain};
             }
 
-            return toClass2(method, loader, args);
+            return Class.class.cast(method.invoke(loader, args));
         } catch (RuntimeException e) {
             throw e;
         } catch (java.lang.reflect.InvocationTargetException e) {
@@ -104,9 +108,4 @@ public class ClassFileUtils {
         }
     }
 
-    private static synchronized Class<?> toClass2(Method method, ClassLoader loader, Object[] args) throws Exception {
-        Class<?> clazz = Class.class.cast(method.invoke(loader, args));
-        return clazz;
-    }
-
 }
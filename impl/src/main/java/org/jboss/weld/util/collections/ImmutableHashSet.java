@@ -118,7 +118,7 @@ public final class ImmutableHashSet<T> extends ImmutableSet<T> implements Serial
             if (item == null) {
                 return false;
             }
-            if (o.equals(item)) {
+            if (o == item || o.equals(item)) {
                 return true;
             }
         }
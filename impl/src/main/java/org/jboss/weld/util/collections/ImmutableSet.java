@@ -36,6 +36,7 @@ import org.jboss.weld.util.Preconditions;
  * <ul>
  * <li>A single shared {@link Set} implementation instance representing an empty list</li>
  * <li>An optimized implementation for holding one, two or three references.</li>
+ * <li>An array-based implementation for holding up to eight references.</li>
  * <li>An immutable {@link Set} implementation based on hashing</li>
  * </ul>
  * <p/>
@@ -173,6 +174,9 @@ public abstract class ImmutableSet<T> extends AbstractImmutableSet<T> {
                 case 3:
                     return new ImmutableTinySet.Tripleton<T>(set);
                 default:
+                    if (set.size() <= ImmutableTinySet.ArraySet.MAX_SIZE) {
+                        return new ImmutableTinySet.ArraySet<T>(set);
+                    }
                     return new ImmutableHashSet<>(set);
             }
         }
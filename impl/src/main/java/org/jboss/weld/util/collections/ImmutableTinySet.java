@@ -25,7 +25,8 @@ import org.jboss.weld.util.Preconditions;
 
 /**
  * Contains {@link Set} implementations optimized for tiny number of elements. These implementations do not use hashing. {@link Set#contains(Object)} is o(n)
- * which is fine as the sets are tiny.
+ * which is fine as the sets are tiny. Each element is compared by identity before {@link Object#equals(Object)} is called so that interned elements (e.g.
+ * {@link Class} or canonical {@link java.lang.reflect.Type} instances) do not need to be compared structurally.
  *
  * @author Jozef Hartinger
  * @see WELD-1753
@@ -67,7 +68,7 @@ abstract class ImmutableTinySet<T> extends ImmutableSet<T> {
             if (o == null) {
                 return false;
             }
-            return o.equals(element);
+            return o == element || o.equals(element);
         }
 
         @Override
@@ -117,7 +118,7 @@ abstract class ImmutableTinySet<T> extends ImmutableSet<T> {
             if (o == null) {
                 return false;
             }
-            return o.equals(element1) || o.equals(element2);
+            return o == element1 || o.equals(element1) || o == element2 || o.equals(element2);
         }
 
         @Override
@@ -176,7 +177,7 @@ abstract class ImmutableTinySet<T> extends ImmutableSet<T> {
             if (o == null) {
                 return false;
             }
-            return o.equals(element1) || o.equals(element2) || o.equals(element3);
+            return o == element1 || o.equals(element1) || o == element2 || o.equals(element2) || o == element3 || o.equals(element3);
         }
 
         @Override
@@ -203,4 +204,83 @@ abstract class ImmutableTinySet<T> extends ImmutableSet<T> {
             };
         }
     }
+
+    /**
+     * {@link Set} implementation backed by an array. Used for sets containing up to {@link #MAX_SIZE} elements. The hash codes of the elements are
+     * cached so that {@link #contains(Object)} only compares elements with a matching hash code.
+     * <p>
+     * An instance is serialized as an {@link ImmutableHashSet}, which is used for sets of this size by previous versions. Therefore, nodes running a
+     * previous version can still read the serialized form, e.g. in a cluster which replicates sessions.
+     *
+     * @param <T> the element type
+     */
+    static class ArraySet<T> extends ImmutableTinySet<T> implements Serializable {
+
+        static final int MAX_SIZE = 8;
+
+        private static final long serialVersionUID = 1L;
+        private final Object[] elements;
+        private final int[] hashCodes;
+
+        ArraySet(Set<T> set) {
+            this(checkSize(set).toArray());
+        }
+
+        private ArraySet(Object[] elements) {
+            this.elements = elements;
+            this.hashCodes = new int[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+                hashCodes[i] = elements[i].hashCode();
+            }
+        }
+
+        private static <T> Set<T> checkSize(Set<T> set) {
+            Preconditions.checkNotNull(set);
+            Preconditions.checkArgument(set.size() > 3 && set.size() <= MAX_SIZE, set);
+            return set;
+        }
+
+        private Object writeReplace() {
+            return new ImmutableHashSet<T>(this);
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o == null) {
+                return false;
+            }
+            final int hashCode = o.hashCode();
+            for (int i = 0; i < elements.length; i++) {
+                if (hashCodes[i] == hashCode && (o == elements[i] || o.equals(elements[i]))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 0;
+            for (int elementHashCode : hashCodes) {
+                hashCode += elementHashCode;
+            }
+            return hashCode;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterators.IndexIterator<T>(this.size()) {
+                @SuppressWarnings("unchecked")
+                @Override
+                T getElement(int position) {
+                    return (T) elements[position];
+                }
+            };
+        }
+    }
 }
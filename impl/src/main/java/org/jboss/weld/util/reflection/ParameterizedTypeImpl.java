@@ -32,6 +32,8 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
     private final Type[] actualTypeArguments;
     private final Type rawType;
     private final Type ownerType;
+    // The hash code is not serialized as it may be derived from identity hash codes of classes
+    private transient int hashCode;
 
     @SuppressWarnings("EI_EXPOSE_REP")
     public ParameterizedTypeImpl(Type rawType, Type... actualTypeArguments) {
@@ -59,13 +61,23 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(actualTypeArguments) ^ (ownerType == null ? 0 : ownerType.hashCode()) ^ (rawType == null ? 0 : rawType.hashCode());
+        int result = hashCode;
+        if (result == 0) {
+            result = Arrays.hashCode(actualTypeArguments) ^ (ownerType == null ? 0 : ownerType.hashCode()) ^ (rawType == null ? 0 : rawType.hashCode());
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
             return true;
+        } else if (obj instanceof ParameterizedTypeImpl) {
+            ParameterizedTypeImpl that = (ParameterizedTypeImpl) obj;
+            // Do not copy the type arguments
+            return hashCode() == that.hashCode() && (ownerType == null ? that.ownerType == null : ownerType.equals(that.ownerType))
+                    && (rawType == null ? that.rawType == null : rawType.equals(that.rawType)) && Arrays.equals(actualTypeArguments, that.actualTypeArguments);
         } else if (obj instanceof ParameterizedType) {
             ParameterizedType that = (ParameterizedType) obj;
             Type thatOwnerType = that.getOwnerType();
@@ -18,11 +18,14 @@ package org.jboss.weld.xml;
 
 import static org.jboss.weld.bootstrap.spi.BeansXml.EMPTY_BEANS_XML;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -39,6 +42,7 @@ import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.logging.XmlLogger;
 import org.jboss.weld.metadata.BeansXmlImpl;
 import org.jboss.weld.metadata.ScanningImpl;
+import org.jboss.weld.util.LazyValueHolder;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXNotRecognizedException;
@@ -47,14 +51,25 @@ import org.xml.sax.SAXNotSupportedException;
 /**
  * Simple parser for beans.xml
  * <p/>
- * This class is NOT threadsafe, and should only be called in a single thread
+ * The parser factory and the XSDs are only loaded once and a parser instance is reused for subsequent calls. Concurrent calls are safe but each of
+ * them then uses its own parser instance.
  *
  * @author Pete Muir
  * @author Ales Justin
  */
 public class BeansXmlParser {
 
-    private static final InputSource[] EMPTY_INPUT_SOURCE_ARRAY = new InputSource[0];
+    // the schemas are read once and then served from memory
+    private static final LazyValueHolder<List<byte[]>> XSDS = LazyValueHolder.forSupplier(BeansXmlParser::readXsds);
+
+    private final LazyValueHolder<SAXParserFactory> parserFactory = LazyValueHolder.forSupplier(() -> {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setValidating(!SystemPropertiesConfiguration.INSTANCE.isXmlValidationDisabled());
+        factory.setNamespaceAware(true);
+        return factory;
+    });
+
+    private final AtomicReference<SAXParser> idleParser = new AtomicReference<SAXParser>();
 
     private Function<URL, BeansXml> URL_TO_BEANS_XML_FUNCTION = BeansXmlParser.this::parse;
 
@@ -68,20 +83,10 @@ public class BeansXmlParser {
     private static Function<BeansXml, BeansXml> BEANS_XML_IDENTITY_FUNCTION = beansXml -> beansXml;
 
     public BeansXml parse(final URL beansXml) {
-        SAXParserFactory factory = SAXParserFactory.newInstance();
-        factory.setValidating(!SystemPropertiesConfiguration.INSTANCE.isXmlValidationDisabled());
-        factory.setNamespaceAware(true);
         if (beansXml == null) {
             throw XmlLogger.LOG.loadError("unknown", null);
         }
-        SAXParser parser;
-        try {
-            parser = factory.newSAXParser();
-        } catch (SAXException e) {
-            throw XmlLogger.LOG.configurationError(e);
-        } catch (ParserConfigurationException e) {
-            throw XmlLogger.LOG.configurationError(e);
-        }
+        SAXParser parser = acquireParser();
         InputStream beansXmlInputStream = null;
         try {
             beansXmlInputStream = beansXml.openStream();
@@ -111,6 +116,7 @@ public class BeansXmlParser {
         } catch (SAXException e) {
             throw XmlLogger.LOG.parsingError(beansXml, e);
         } finally {
+            releaseParser(parser);
             if (beansXmlInputStream != null) {
                 try {
                     beansXmlInputStream.close();
@@ -121,6 +127,34 @@ public class BeansXmlParser {
         }
     }
 
+    /**
+     * Returns the idle parser if there is one or creates a new one. Parsing the same descriptor concurrently is therefore safe - a thread which does not
+     * get hold of the idle parser simply creates its own.
+     */
+    private SAXParser acquireParser() {
+        SAXParser parser = idleParser.getAndSet(null);
+        if (parser != null) {
+            return parser;
+        }
+        try {
+            return parserFactory.get().newSAXParser();
+        } catch (SAXException e) {
+            throw XmlLogger.LOG.configurationError(e);
+        } catch (ParserConfigurationException e) {
+            throw XmlLogger.LOG.configurationError(e);
+        }
+    }
+
+    private void releaseParser(SAXParser parser) {
+        try {
+            parser.reset();
+        } catch (UnsupportedOperationException e) {
+            // the parser cannot be reused
+            return;
+        }
+        idleParser.set(parser);
+    }
+
     public BeansXml parse(Iterable<URL> urls) {
         return parse(urls, false);
     }
@@ -177,26 +211,46 @@ public class BeansXmlParser {
     }
 
     private static InputSource[] loadXsds() {
+        List<byte[]> schemas = XSDS.get();
+        InputSource[] xsds = new InputSource[schemas.size()];
+        for (int i = 0; i < xsds.length; i++) {
+            xsds[i] = new InputSource(new ByteArrayInputStream(schemas.get(i)));
+        }
+        return xsds;
+    }
 
-        List<InputSource> xsds = new ArrayList<InputSource>();
-
+    private static List<byte[]> readXsds() {
+        List<byte[]> xsds = new ArrayList<byte[]>();
         for (XmlSchema schema : XmlSchema.values()) {
-            InputSource source = loadXsd(schema.getFileName(), schema.getClassLoader());
-            if (source != null) {
-                xsds.add(source);
+            byte[] xsd = readXsd(schema.getFileName(), schema.getClassLoader());
+            if (xsd != null) {
+                xsds.add(xsd);
             }
         }
-
-        return xsds.toArray(EMPTY_INPUT_SOURCE_ARRAY);
+        return xsds;
     }
 
-
-    private static InputSource loadXsd(String name, ClassLoader classLoader) {
+    private static byte[] readXsd(String name, ClassLoader classLoader) {
         InputStream in = classLoader.getResourceAsStream(name);
         if (in == null) {
             return null;
-        } else {
-            return new InputSource(in);
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            // No op, we just don't validate against this schema
+            return null;
+        } finally {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
         }
     }
 
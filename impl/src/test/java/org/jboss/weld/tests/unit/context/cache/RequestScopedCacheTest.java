@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.weld.context.cache.RequestScopedCache;
+import org.jboss.weld.context.cache.RequestScopedCacheSlots;
+import org.junit.After;
+import org.junit.Test;
+
+public class RequestScopedCacheTest {
+
+    private final Object owner = new Object();
+
+    @After
+    public void cleanup() {
+        RequestScopedCache.endRequest();
+    }
+
+    @Test
+    public void testSlotValueNotStoredIfInactive() {
+        int slot = RequestScopedCache.allocateSlot();
+        try {
+            assertFalse(RequestScopedCache.setSlotValueIfActive(slot, owner, "foo"));
+            assertNull(RequestScopedCache.getSlotValue(slot, owner));
+        } finally {
+            RequestScopedCache.releaseSlot(slot);
+        }
+    }
+
+    @Test
+    public void testSlotValues() {
+        RequestScopedCacheSlots slots = new RequestScopedCacheSlots();
+        int first = slots.allocate();
+        int second = slots.allocate();
+        // make sure the slot array needs to grow
+        int last = first;
+        for (int i = 0; i < 100; i++) {
+            last = slots.allocate();
+        }
+        try {
+            RequestScopedCache.beginRequest();
+            assertTrue(RequestScopedCache.setSlotValueIfActive(first, owner, "foo"));
+            assertTrue(RequestScopedCache.setSlotValueIfActive(last, owner, "bar"));
+            assertEquals("foo", RequestScopedCache.getSlotValue(first, owner));
+            assertNull(RequestScopedCache.getSlotValue(second, owner));
+            assertEquals("bar", RequestScopedCache.getSlotValue(last, owner));
+            RequestScopedCache.invalidate();
+            assertNull(RequestScopedCache.getSlotValue(first, owner));
+            assertNull(RequestScopedCache.getSlotValue(last, owner));
+            assertTrue(RequestScopedCache.setSlotValueIfActive(first, owner, "baz"));
+            RequestScopedCache.endRequest();
+            assertNull(RequestScopedCache.getSlotValue(first, owner));
+        } finally {
+            slots.cleanup();
+        }
+    }
+
+    @Test
+    public void testReleasedSlotsAreReused() {
+        RequestScopedCacheSlots slots = new RequestScopedCacheSlots();
+        int first = slots.allocate();
+        int second = slots.allocate();
+        slots.cleanup();
+        // calling cleanup() repeatedly must not release slots allocated by someone else
+        int other = RequestScopedCache.allocateSlot();
+        try {
+            slots.cleanup();
+            assertEquals(Math.min(first, second), other);
+            int next = RequestScopedCache.allocateSlot();
+            RequestScopedCache.releaseSlot(next);
+            assertEquals(Math.max(first, second), next);
+        } finally {
+            RequestScopedCache.releaseSlot(other);
+        }
+    }
+
+    @Test
+    public void testSingleSlotReleased() {
+        RequestScopedCacheSlots slots = new RequestScopedCacheSlots();
+        int first = slots.allocate();
+        int second = slots.allocate();
+        try {
+            slots.release(first);
+            // a slot released before shutdown is available to others
+            int other = RequestScopedCache.allocateSlot();
+            assertEquals(first, other);
+            // releasing it again or at shutdown must not free the slot now held by someone else
+            slots.release(first);
+            slots.cleanup();
+            assertEquals(second, RequestScopedCache.allocateSlot());
+            RequestScopedCache.releaseSlot(second);
+            RequestScopedCache.releaseSlot(other);
+        } finally {
+            slots.cleanup();
+        }
+    }
+
+    @Test
+    public void testValueOfPreviousOwnerNotReturned() {
+        Object previousOwner = new Object();
+        int slot = RequestScopedCache.allocateSlot();
+        try {
+            RequestScopedCache.beginRequest();
+            assertTrue(RequestScopedCache.setSlotValueIfActive(slot, previousOwner, "foo"));
+            assertNull(RequestScopedCache.getSlotValue(slot, owner));
+            assertTrue(RequestScopedCache.setSlotValueIfActive(slot, owner, "bar"));
+            assertEquals("bar", RequestScopedCache.getSlotValue(slot, owner));
+            assertNull(RequestScopedCache.getSlotValue(slot, previousOwner));
+        } finally {
+            RequestScopedCache.releaseSlot(slot);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Set;
+
+import org.jboss.weld.util.collections.ImmutableHashSet;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the array-backed {@link ImmutableSet} implementation used for sets of up to eight elements.
+ */
+public class ArraySetTest extends AbstractImmutableSetTest {
+
+    private static final String[] DATA = new String[] { "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel" };
+
+    @Override
+    protected String[] getData() {
+        return DATA;
+    }
+
+    @Test
+    public void testContainsEqualElement() {
+        Set<String> set = ImmutableSet.of(getData());
+        for (String data : getData()) {
+            Assert.assertTrue(set.contains(new String(data)));
+        }
+        Assert.assertFalse(set.contains("india"));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        Set<String> set = ImmutableSet.of(getData());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(set);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Set<?> deserialized = (Set<?>) in.readObject();
+            // the serialized form must be readable by previous versions
+            Assert.assertEquals(ImmutableHashSet.class, deserialized.getClass());
+            Assert.assertEquals(set, deserialized);
+            Assert.assertEquals(set.hashCode(), deserialized.hashCode());
+            for (String data : getData()) {
+                Assert.assertTrue(deserialized.contains(data));
+            }
+        }
+    }
+
+}
@@ -34,7 +34,7 @@ import org.junit.Test;
  */
 public class ImmutableHashSetTest extends AbstractImmutableSetTest {
 
-    private static final String[] DATA = new String[] { "alpha", "bravo", "charlie", "delta", "echo" };
+    private static final String[] DATA = new String[] { "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel", "india" };
 
     @Override
     protected String[] getData() {
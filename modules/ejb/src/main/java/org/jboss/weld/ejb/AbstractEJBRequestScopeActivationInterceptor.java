@@ -58,6 +58,15 @@ public abstract class AbstractEJBRequestScopeActivationInterceptor implements Se
         }
     };
 
+    // The built-in context bean always returns the same context instance
+    private final LazyValueHolder<EjbRequestContext> ejbRequestContext = new LazyValueHolder.Serializable<EjbRequestContext>() {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected EjbRequestContext computeValue() {
+            return getBeanManager().instance().select(EjbRequestContext.class).get();
+        }
+    };
+
     public Object aroundInvoke(InvocationContext invocation) throws Exception {
 
         if (isRequestContextActive()) {
@@ -88,7 +97,7 @@ public abstract class AbstractEJBRequestScopeActivationInterceptor implements Se
     }
 
     protected EjbRequestContext getEjbRequestContext() {
-        return getBeanManager().instance().select(EjbRequestContext.class).get();
+        return ejbRequestContext.get();
     }
 
     protected abstract BeanManagerImpl getBeanManager();
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.handle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.enterprise.inject.Instance;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.InstanceImpl;
+import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.inject.WeldInstance.Handle;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that a decorated {@link Instance} is still a {@link WeldInstance}.
+ */
+@RunWith(Arquillian.class)
+public class DecoratedInstanceHandleTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class)
+                .decorate(GadgetInstanceDecorator.class).addClasses(Gadget.class, GadgetInstanceDecorator.class);
+    }
+
+    @Test
+    public void testDecoratedInstanceIsWeldInstance(Instance<Gadget> instance) {
+        GadgetInstanceDecorator.GETS.set(0);
+        Gadget.DESTROYED.set(0);
+        instance.get().ping();
+        assertEquals(1, GadgetInstanceDecorator.GETS.get());
+        // the decorator proxy is not an InstanceImpl
+        assertFalse(instance instanceof InstanceImpl);
+        assertTrue(instance instanceof WeldInstance);
+        try (Handle<Gadget> handle = ((WeldInstance<Gadget>) instance).getHandle()) {
+            handle.get().ping();
+        }
+        assertEquals(1, Gadget.DESTROYED.get());
+    }
+
+    @Test
+    public void testWeldInstanceIsDecorated(WeldInstance<Gadget> instance) {
+        GadgetInstanceDecorator.GETS.set(0);
+        Gadget.DESTROYED.set(0);
+        instance.get().ping();
+        assertEquals(1, GadgetInstanceDecorator.GETS.get());
+        try (Handle<Gadget> handle = instance.getHandle()) {
+            handle.get().ping();
+        }
+        assertEquals(1, Gadget.DESTROYED.get());
+    }
+
+}
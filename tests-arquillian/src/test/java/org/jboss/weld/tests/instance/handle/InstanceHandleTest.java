@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.handle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.inject.WeldInstance.Handle;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that closing a {@link Handle} destroys a dependent instance but leaves a normal-scoped contextual instance intact.
+ */
+@RunWith(Arquillian.class)
+public class InstanceHandleTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InstanceHandleTest.class.getPackage());
+    }
+
+    @Test
+    public void testHandleDestroysDependentInstance(WeldInstance<Gadget> instance) {
+        Gadget.DESTROYED.set(0);
+        for (int i = 0; i < 10; i++) {
+            try (Handle<Gadget> handle = instance.getHandle()) {
+                assertNotNull(handle.get());
+                assertEquals(Dependent.class, handle.getBean().getScope());
+                handle.get().ping();
+            }
+        }
+        assertEquals(10, Gadget.DESTROYED.get());
+    }
+
+    @Test
+    public void testDestroyIsIdempotent(WeldInstance<Gadget> instance) {
+        Gadget.DESTROYED.set(0);
+        Handle<Gadget> handle = instance.getHandle();
+        handle.destroy();
+        handle.destroy();
+        handle.close();
+        assertEquals(1, Gadget.DESTROYED.get());
+    }
+
+    @Test
+    public void testCloseDoesNotDestroyNormalScopedInstance(WeldInstance<Toolbox> instance) {
+        Toolbox.DESTROYED.set(0);
+        try (Handle<Toolbox> handle = instance.getHandle()) {
+            assertEquals(RequestScoped.class, handle.getBean().getScope());
+            handle.get().addTool();
+        }
+        // The contextual instance is shared - it must survive closing the handle
+        assertEquals(0, Toolbox.DESTROYED.get());
+        assertEquals(1, instance.get().getTools());
+        // Explicit destroy() destroys the contextual instance
+        Handle<Toolbox> handle = instance.getHandle();
+        handle.destroy();
+        assertEquals(1, Toolbox.DESTROYED.get());
+        assertEquals(0, instance.get().getTools());
+    }
+
+}
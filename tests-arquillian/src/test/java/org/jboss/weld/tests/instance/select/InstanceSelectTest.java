@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.select;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Iterator;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.InstanceImpl;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that child facades created by {@link Instance#select(Annotation...)} are memoized and resolved lazily.
+ */
+@RunWith(Arquillian.class)
+public class InstanceSelectTest {
+
+    @Inject
+    @Any
+    Instance<Fruit> fruit;
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InstanceSelectTest.class.getPackage());
+    }
+
+    @Test
+    public void testRepeatedSelectReturnsSameChild() {
+        assertSame(fruit.select(Juicy.Literal.INSTANCE), fruit.select(Juicy.Literal.INSTANCE));
+        assertSame(fruit.select(Apple.class), fruit.select(Apple.class));
+        assertSame(fruit.select(Juicy.Literal.INSTANCE, Ripe.Literal.INSTANCE), fruit.select(Juicy.Literal.INSTANCE, Ripe.Literal.INSTANCE));
+        assertNotSame(fruit.select(Juicy.Literal.INSTANCE), fruit.select(Sour.Literal.INSTANCE));
+        assertNotSame(fruit.select(Apple.class), fruit.select(Apple.class, Juicy.Literal.INSTANCE));
+    }
+
+    @Test
+    public void testMutatedQualifiersDoNotAffectSelectedChild() {
+        Annotation[] qualifiers = { Juicy.Literal.INSTANCE };
+        Instance<Fruit> juicy = fruit.select(qualifiers);
+        qualifiers[0] = Sour.Literal.INSTANCE;
+        assertSame(juicy, fruit.select(Juicy.Literal.INSTANCE));
+        assertEquals("apple", juicy.get().getName());
+        Instance<Fruit> sour = fruit.select(qualifiers);
+        assertNotSame(juicy, sour);
+        assertEquals("lemon", sour.get().getName());
+    }
+
+    @Test
+    public void testChildResolvedOnFirstUse() throws Exception {
+        // anonymous literals are not memoized, i.e. a new child is created every time
+        Instance<Fruit> sour = fruit.select(new AnnotationLiteral<Sour>() {
+        });
+        assertNull(getResolution(sour));
+        assertFalse(sour.isUnsatisfied());
+        assertNotNull(getResolution(sour));
+
+        Instance<Fruit> ripe = fruit.select(new AnnotationLiteral<Ripe>() {
+        });
+        assertNull(getResolution(ripe));
+        assertTrue(ripe.isAmbiguous());
+        assertNotNull(getResolution(ripe));
+
+        ripe = fruit.select(new AnnotationLiteral<Ripe>() {
+        });
+        assertNull(getResolution(ripe));
+        Iterator<Fruit> iterator = ripe.iterator();
+        assertNotNull(getResolution(ripe));
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+    @Test
+    public void testFailedSelectNotMemoized() throws Exception {
+        Instance<Fruit> ripe = fruit.select(new AnnotationLiteral<Ripe>() {
+        });
+        try {
+            ripe.select(Juicy.Literal.INSTANCE, Juicy.Literal.INSTANCE);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        assertEquals(0, getSelectCache(ripe).size());
+        assertEquals("apple", ripe.select(Juicy.Literal.INSTANCE).get().getName());
+        assertEquals(1, getSelectCache(ripe).size());
+    }
+
+    private static Object getResolution(Instance<?> instance) throws Exception {
+        return getField(instance, "resolution");
+    }
+
+    private static ComputingCache<?, ?> getSelectCache(Instance<?> instance) throws Exception {
+        return (ComputingCache<?, ?>) getField(instance, "selectCache");
+    }
+
+    private static Object getField(Instance<?> instance, String name) throws Exception {
+        Field field = InstanceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+}